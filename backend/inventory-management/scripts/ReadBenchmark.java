@@ -0,0 +1,109 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Measures read throughput and heap allocated per request for the item list and the
+ * item lookup endpoints. Allocation comes from the service's jvm.gc.memory.allocated
+ * metric, so the metrics endpoint has to be exposed.
+ *
+ *   java scripts/ReadBenchmark.java [baseUrl] [items] [threads] [secondsPerRun]
+ *
+ * Run through scripts/read-benchmark.sh.
+ */
+public class ReadBenchmark {
+    private static final Pattern METRIC_VALUE = Pattern.compile("\"value\":([0-9.E+]+)");
+
+    private static final HttpClient client = HttpClient.newHttpClient();
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int items = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 15;
+
+        for (int i = 1; i <= items; i++) {
+            send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/inventory"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                    "{\"name\":\"Item " + i + "\",\"quantity\":100,\"minStockLevel\":10,\"unitPrice\":9.99}"))
+                .build());
+        }
+
+        String list = baseUrl + "/api/inventory";
+        String lookup = baseUrl + "/api/inventory/";
+
+        // Untimed runs so the JIT has compiled both read paths
+        run(baseUrl, () -> list, threads, seconds);
+        run(baseUrl, () -> lookup + ThreadLocalRandom.current().nextInt(1, items + 1), threads, seconds);
+
+        report("list (" + items + " items)", run(baseUrl, () -> list, threads, seconds));
+        report("lookup by id", run(baseUrl,
+            () -> lookup + ThreadLocalRandom.current().nextInt(1, items + 1), threads, seconds));
+    }
+
+    private static void report(String label, double[] result) {
+        System.out.printf("%-20s %8.0f requests/s  %8.1f KB allocated/request%n", label, result[0], result[1] / 1024);
+    }
+
+    // Returns requests per second and bytes allocated per request
+    private static double[] run(String baseUrl, java.util.function.Supplier<String> urls, int threads, int seconds)
+            throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder requests = new LongAdder();
+        List<Thread> workers = new ArrayList<>();
+
+        double allocatedBefore = allocatedBytes(baseUrl);
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                while (running.get()) {
+                    try {
+                        send(HttpRequest.newBuilder(URI.create(urls.get())).GET().build());
+                        requests.increment();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+
+        Thread.sleep(seconds * 1000L);
+        running.set(false);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        double allocated = allocatedBytes(baseUrl) - allocatedBefore;
+
+        return new double[] {requests.sum() / elapsedSeconds, allocated / requests.sum()};
+    }
+
+    private static double allocatedBytes(String baseUrl) throws Exception {
+        String body = send(HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/jvm.gc.memory.allocated"))
+            .GET().build());
+        Matcher matcher = METRIC_VALUE.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("jvm.gc.memory.allocated is not exposed: " + body);
+        }
+        return Double.parseDouble(matcher.group(1));
+    }
+
+    private static String send(HttpRequest request) throws Exception {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(request.uri() + " returned " + response.statusCode());
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,111 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Measures stock movement throughput on a single hot item as the movements are spread
+ * over 1, 2, 4 and 8 warehouses. Every worker alternates -1/+1 adjustments at the
+ * warehouse it is assigned to, so the stock level stays constant.
+ *
+ *   java scripts/WarehouseScalingBenchmark.java [baseUrl] [threads] [secondsPerRun]
+ *
+ * Run through scripts/warehouse-scaling-benchmark.sh.
+ */
+public class WarehouseScalingBenchmark {
+    private static final int[] LOCATION_COUNTS = {1, 2, 4, 8};
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+
+    private static final HttpClient client = HttpClient.newHttpClient();
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        String item = send("POST", baseUrl + "/api/inventory",
+            "{\"name\":\"Hot SKU\",\"quantity\":0,\"minStockLevel\":0,\"unitPrice\":1.0}");
+        Matcher matcher = ID.matcher(item);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Could not create the benchmark item: " + item);
+        }
+        String stockUrl = baseUrl + "/api/inventory/" + matcher.group(1) + "/stock";
+
+        int maxLocations = LOCATION_COUNTS[LOCATION_COUNTS.length - 1];
+        for (int i = 1; i <= maxLocations; i++) {
+            send("POST", baseUrl + "/api/warehouses",
+                "{\"code\":\"BENCH" + i + "\",\"name\":\"Benchmark location " + i + "\"}");
+            send("POST", stockUrl + "?warehouse=BENCH" + i + "&delta=1000000", null);
+        }
+
+        // Untimed run so the JIT has compiled the stock movement path
+        run(stockUrl, maxLocations, threads, seconds);
+
+        for (int locations : LOCATION_COUNTS) {
+            double throughput = run(stockUrl, locations, threads, seconds);
+            System.out.printf("%d location(s)  %2d threads  %8.0f movements/s%n", locations, threads, throughput);
+        }
+    }
+
+    private static double run(String stockUrl, int locations, int threads, int seconds) throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder movements = new LongAdder();
+        LongAdder failures = new LongAdder();
+        List<Thread> workers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            String url = stockUrl + "?warehouse=BENCH" + (t % locations + 1) + "&delta=";
+            Thread worker = new Thread(() -> {
+                int delta = -1;
+                while (running.get()) {
+                    try {
+                        HttpResponse<Void> response = client.send(
+                            HttpRequest.newBuilder(URI.create(url + delta))
+                                .POST(HttpRequest.BodyPublishers.noBody()).build(),
+                            HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() == 200) {
+                            movements.increment();
+                            delta = -delta;
+                        } else {
+                            failures.increment();
+                        }
+                    } catch (Exception e) {
+                        failures.increment();
+                    }
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+
+        long start = System.nanoTime();
+        Thread.sleep(seconds * 1000L);
+        running.set(false);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        if (failures.sum() > 0) {
+            System.out.printf("  (%d failed movements at %d location(s))%n", failures.sum(), locations);
+        }
+        return movements.sum() / elapsedSeconds;
+    }
+
+    private static String send(String method, String url, String json) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url));
+        if (json == null) {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(json));
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString()).body();
+    }
+}
@@ -0,0 +1,94 @@
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Compares the JSON exchange with the supplier against the negotiated CBOR exchange:
+ * bytes on the wire per order and serialization CPU per order, where one order is
+ * request encode + request decode + response encode + response decode.
+ *
+ * Run through scripts/wire-format-benchmark.sh.
+ */
+public class WireFormatBenchmark {
+    private static final int WARM_UP_ORDERS = 200_000;
+    private static final int MEASURED_ORDERS = 1_000_000;
+
+    public static class SupplierOrderRequest {
+        public String name = "Stainless steel hex bolt M8x40";
+        public Integer quantity = 250;
+        public String description = "A2 stainless, DIN 933, box of 100";
+        public Double unitPrice = 12.75;
+    }
+
+    // Shape of the supplier's JSON response, echoing the request
+    public static class OrderResponse {
+        public String orderId;
+        public String status = "COMPLETED";
+        public String message;
+        public SupplierOrderRequest orderDetails;
+        public String processedAt = LocalDateTime.now().toString();
+        public String requestId = UUID.randomUUID().toString();
+    }
+
+    // Shape of the supplier's slim CBOR receipt
+    public static class OrderReceipt {
+        public String orderId;
+        public String status = "COMPLETED";
+    }
+
+    // What the inventory service reads from either response
+    public static class SupplierOrderResponse {
+        public String orderId;
+        public String status;
+        public String message;
+    }
+
+    public static void main(String[] args) throws Exception {
+        SupplierOrderRequest request = new SupplierOrderRequest();
+        String orderId = UUID.randomUUID().toString();
+
+        OrderResponse full = new OrderResponse();
+        full.orderId = orderId;
+        full.orderDetails = request;
+        full.message = String.format("Order %s has been processed successfully. %d units of '%s' will be delivered at $%.2f per unit.",
+            orderId, request.quantity, request.name, request.unitPrice);
+
+        OrderReceipt receipt = new OrderReceipt();
+        receipt.orderId = orderId;
+
+        // Spring's message converters ignore unknown properties, so do the same here
+        report("json", new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES), request, full);
+        report("cbor", new CBORMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES), request, receipt);
+    }
+
+    private static void report(String label, ObjectMapper mapper, SupplierOrderRequest request, Object response)
+            throws Exception {
+        int requestBytes = mapper.writeValueAsBytes(request).length;
+        int responseBytes = mapper.writeValueAsBytes(response).length;
+
+        exchange(mapper, request, response, WARM_UP_ORDERS);
+        long start = System.nanoTime();
+        exchange(mapper, request, response, MEASURED_ORDERS);
+        long nanosPerOrder = (System.nanoTime() - start) / MEASURED_ORDERS;
+
+        System.out.printf("%s  request %4d B  response %4d B  total %4d B  cpu %5d ns/order%n",
+            label, requestBytes, responseBytes, requestBytes + responseBytes, nanosPerOrder);
+    }
+
+    private static void exchange(ObjectMapper mapper, SupplierOrderRequest request, Object response, int orders)
+            throws Exception {
+        long sink = 0;
+        for (int i = 0; i < orders; i++) {
+            byte[] requestBody = mapper.writeValueAsBytes(request);
+            sink += mapper.readValue(requestBody, SupplierOrderRequest.class).quantity;
+            byte[] responseBody = mapper.writeValueAsBytes(response);
+            sink += mapper.readValue(responseBody, SupplierOrderResponse.class).orderId.length();
+        }
+        if (sink == 42) {
+            System.out.println();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+#!/usr/bin/env bash
+#
+# Starts the inventory service on an empty in-memory database and reports read
+# throughput and heap allocated per request. Extra arguments are passed to the
+# application, e.g. --inventory.datasource.replica.enabled=true
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT=${PORT:-18080}
+JAR=${JAR:-target/inventory-management-0.0.1-SNAPSHOT.jar}
+
+java -jar "$JAR" --server.port="$PORT" --spring.jpa.show-sql=false \
+    --logging.level.com.inventory=INFO \
+    --management.endpoints.web.exposure.include=health,metrics "$@" \
+    > target/read-benchmark.log 2>&1 &
+PID=$!
+trap 'kill "$PID" 2>/dev/null || true' EXIT
+
+until curl -s -o /dev/null "http://localhost:$PORT/actuator/health"; do
+    sleep 0.2
+done
+
+java scripts/ReadBenchmark.java "http://localhost:$PORT" "${ITEMS:-200}" "${THREADS:-8}" "${SECONDS_PER_RUN:-15}"
@@ -0,0 +1,85 @@
+#!/usr/bin/env bash
+#
+# Compares the default run mode with the fast-startup run mode and reports
+#   time-to-first-request: JVM launch until the readiness probe answers 200
+#   time-to-steady-state:  JVM launch until two consecutive batches of item
+#                          lookups have a mean latency within 10% of each other
+#
+# Both runs share a file-based H2 database seeded with ITEMS items, so the
+# warm-up and the schema handling see a realistic, non-empty schema.
+# Run scripts/fast-startup.sh build first.
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT=${PORT:-18080}
+ITEMS=${ITEMS:-200}
+BATCH=${BATCH:-100}
+JAR=target/inventory-management-0.0.1-SNAPSHOT.jar
+BENCH_DIR=target/startup-benchmark
+DB_URL="jdbc:h2:file:./$BENCH_DIR/inventorydb"
+BASE_URL="http://localhost:$PORT"
+APP_ARGS=(--server.port="$PORT" --spring.datasource.url="$DB_URL"
+          --management.endpoint.health.probes.enabled=true)
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+wait_until_ready() {
+    until [ "$(curl -s -o /dev/null -w '%{http_code}' "$BASE_URL/actuator/health/readiness")" = "200" ]; do
+        sleep 0.02
+    done
+}
+
+# Mean latency of one batch of item lookups, in microseconds
+batch_latency() {
+    for i in $(seq "$BATCH"); do
+        curl -s -o /dev/null -w '%{time_total}\n' "$BASE_URL/api/inventory/$(( i % ITEMS + 1 ))"
+    done | awk '{ sum += $1 } END { printf "%d", sum / NR * 1000000 }'
+}
+
+seed() {
+    rm -rf "$BENCH_DIR"
+    mkdir -p "$BENCH_DIR"
+    java -jar "$JAR" "${APP_ARGS[@]}" > "$BENCH_DIR/seed.log" 2>&1 &
+    local pid=$!
+    wait_until_ready
+    for i in $(seq "$ITEMS"); do
+        curl -s -o /dev/null -H 'Content-Type: application/json' \
+            -d "{\"name\":\"Item $i\",\"quantity\":100,\"minStockLevel\":10,\"unitPrice\":9.99}" \
+            "$BASE_URL/api/inventory"
+    done
+    kill "$pid" && wait "$pid" || true
+}
+
+measure() {
+    local label=$1
+    shift
+    local start pid first previous=0 current steady
+    start=$(now_ms)
+    "$@" > "$BENCH_DIR/$label.log" 2>&1 &
+    pid=$!
+
+    wait_until_ready
+    first=$(( $(now_ms) - start ))
+
+    while true; do
+        current=$(batch_latency)
+        if [ "$previous" -gt 0 ] && [ $(( (current - previous) * 10 )) -le "$previous" ] \
+                && [ $(( (previous - current) * 10 )) -le "$previous" ]; then
+            break
+        fi
+        previous=$current
+    done
+    steady=$(( $(now_ms) - start ))
+
+    kill "$pid" && wait "$pid" || true
+    printf '%-14s first request: %6d ms   steady state: %6d ms   (mean %d us)\n' \
+        "$label" "$first" "$steady" "$current"
+}
+
+seed
+measure default java -jar "$JAR" "${APP_ARGS[@]}"
+measure fast-startup scripts/fast-startup.sh run "${APP_ARGS[@]}"
@@ -0,0 +1,23 @@
+#!/usr/bin/env bash
+#
+# Starts the inventory service on an empty in-memory database and reports stock
+# movement throughput on one hot item as it is spread over more warehouses.
+# Usage: scripts/warehouse-scaling-benchmark.sh [threads] [secondsPerRun]
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT=${PORT:-18080}
+JAR=target/inventory-management-0.0.1-SNAPSHOT.jar
+
+java -jar "$JAR" --server.port="$PORT" --spring.jpa.show-sql=false \
+    --logging.level.com.inventory=INFO > target/warehouse-scaling-benchmark.log 2>&1 &
+PID=$!
+trap 'kill "$PID" 2>/dev/null || true' EXIT
+
+until curl -s -o /dev/null "http://localhost:$PORT/actuator/health"; do
+    sleep 0.2
+done
+
+java scripts/WarehouseScalingBenchmark.java "http://localhost:$PORT" "${1:-32}" "${2:-10}"
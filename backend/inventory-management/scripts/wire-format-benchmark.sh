@@ -0,0 +1,11 @@
+#!/usr/bin/env bash
+#
+# Reports bytes on the wire and serialization CPU per order for the JSON and
+# the negotiated CBOR exchange between the inventory service and the supplier.
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+./mvnw -B -q dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+java -cp "$(cat target/classpath.txt)" scripts/WireFormatBenchmark.java
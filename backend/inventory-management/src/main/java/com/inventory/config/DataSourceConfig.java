@@ -0,0 +1,70 @@
+package com.inventory.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Optional read replica routing, enabled with inventory.datasource.replica.enabled=true.
+ * The primary pool is built from the regular spring.datasource properties and the
+ * replica pool from inventory.datasource.replica. Read-only transactions use the replica.
+ *
+ * With the AOT-processed fast-startup build this condition is evaluated at build time,
+ * so replica routing can only be switched on there by building with the property set.
+ */
+@Configuration
+@ConditionalOnProperty(name = "inventory.datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(
+            @Value("${inventory.datasource.replica.url}") String url,
+            @Value("${inventory.datasource.replica.username:}") String username,
+            @Value("${inventory.datasource.replica.password:}") String password,
+            @Value("${inventory.datasource.replica.maximum-pool-size:10}") int maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        // Databases that honour the flag reject writes that end up on the replica
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Only fetches a connection on first use, once the transaction has marked it read-only
+     * or not, and takes read-only ones from the replica pool.
+     *
+     * The pool is picked once per connection, so it only follows the transactions if every
+     * transaction gets its own connection. That is why spring.jpa.open-in-view is off: an
+     * EntityManager kept open for the whole request would hold on to the first connection,
+     * and every later transaction in the request would run on it regardless of its flag.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,75 @@
+package com.inventory.config;
+
+import com.inventory.model.InventoryItem;
+import com.inventory.repository.InventoryItemRepository;
+import com.inventory.repository.OrderRepository;
+import com.inventory.service.InventoryItemService;
+import com.inventory.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Exercises the item and order read paths for the most ordered items before the
+ * instance accepts traffic, so the JIT has compiled them and H2 has the pages of
+ * those rows in memory. Nothing is cached by the application itself. Application
+ * runners complete before the readiness state switches to ACCEPTING_TRAFFIC, so
+ * the readiness probe stays down until the warm-up is done.
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.warmup.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class StartupWarmup implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private final InventoryItemRepository itemRepository;
+    private final OrderRepository orderRepository;
+    private final InventoryItemService inventoryItemService;
+    private final OrderService orderService;
+
+    @Value("${inventory.warmup.hot-items:100}")
+    private int hotItems;
+
+    @Value("${inventory.warmup.iterations:2000}")
+    private int iterations;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+
+        List<Long> itemIds = findHotItemIds();
+        if (itemIds.isEmpty()) {
+            logger.info("Skipping warm-up: no inventory items found");
+            return;
+        }
+
+        for (int i = 0; i < iterations; i++) {
+            Long itemId = itemIds.get(i % itemIds.size());
+            inventoryItemService.getItemById(itemId);
+            orderService.warmUpOrderPath(itemId);
+        }
+
+        logger.info("Warm-up finished: {} items, {} iterations in {} ms",
+            itemIds.size(), iterations, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private List<Long> findHotItemIds() {
+        List<Long> itemIds = orderRepository.findMostOrderedItemIds(PageRequest.of(0, hotItems));
+        if (!itemIds.isEmpty()) {
+            return itemIds;
+        }
+        // No order history yet, fall back to the first page of items
+        return itemRepository.findAll(PageRequest.of(0, hotItems, Sort.by("id")))
+            .map(InventoryItem::getId)
+            .getContent();
+    }
+}
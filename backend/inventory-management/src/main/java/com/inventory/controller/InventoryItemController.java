@@ -1,14 +1,21 @@
 package com.inventory.controller;
 
+import com.inventory.exception.PreconditionFailedException;
 import com.inventory.model.ApiResponse;
+import com.inventory.model.BulkPriceUpdateRequest;
 import com.inventory.model.InventoryItem;
+import com.inventory.model.InventoryItemPatch;
+import com.inventory.model.WarehouseStock;
 import com.inventory.service.InventoryItemService;
+import com.inventory.service.WarehouseService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -17,6 +24,7 @@ import java.util.List;
 public class InventoryItemController {
 
     private final InventoryItemService inventoryItemService;
+    private final WarehouseService warehouseService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<InventoryItem>>> getAllItems() {
@@ -30,7 +38,7 @@ public class InventoryItemController {
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<InventoryItem>> getItemById(@PathVariable Long id) {
         InventoryItem item = inventoryItemService.getItemById(id);
-        return ResponseEntity.ok(new ApiResponse<>(
+        return ResponseEntity.ok().eTag(versionTag(item)).body(new ApiResponse<>(
             String.format("Successfully retrieved item with ID %d", id),
             item
         ));
@@ -56,6 +64,51 @@ public class InventoryItemController {
         ));
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<ApiResponse<InventoryItem>> patchItem(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody InventoryItemPatch patch) {
+        InventoryItem patchedItem = inventoryItemService.patchItem(id, patch, parseVersionTags(ifMatch));
+        return ResponseEntity.ok().eTag(versionTag(patchedItem)).body(new ApiResponse<>(
+            String.format("Successfully patched item with ID %d", id),
+            patchedItem
+        ));
+    }
+
+    @PatchMapping("/prices")
+    public ResponseEntity<ApiResponse<List<Long>>> updatePrices(
+            @Valid @RequestBody BulkPriceUpdateRequest request) {
+        List<Long> missingIds = inventoryItemService.updatePrices(request.getPrices());
+        return ResponseEntity.ok(new ApiResponse<>(
+            String.format("Successfully updated prices for %d items, %d item IDs not found",
+                request.getPrices().size() - missingIds.size(), missingIds.size()),
+            missingIds
+        ));
+    }
+
+    @GetMapping("/{id}/stock")
+    public ResponseEntity<ApiResponse<List<WarehouseStock>>> getStock(@PathVariable Long id) {
+        List<WarehouseStock> stock = warehouseService.getStock(id);
+        return ResponseEntity.ok(new ApiResponse<>(
+            String.format("Successfully retrieved stock of item with ID %d at %d warehouses", id, stock.size()),
+            stock
+        ));
+    }
+
+    @PostMapping("/{id}/stock")
+    public ResponseEntity<ApiResponse<InventoryItem>> adjustStock(
+            @PathVariable Long id,
+            @RequestParam(required = false) String warehouse,
+            @RequestParam Integer delta) {
+        InventoryItem item = inventoryItemService.adjustStock(id, warehouse, delta);
+        return ResponseEntity.ok().eTag(versionTag(item)).body(new ApiResponse<>(
+            String.format("Successfully adjusted stock of item with ID %d at warehouse %s by %d",
+                id, warehouseService.locationCode(warehouse), delta),
+            item
+        ));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteItem(@PathVariable Long id) {
         inventoryItemService.deleteItem(id);
@@ -64,4 +117,32 @@ public class InventoryItemController {
             null
         ));
     }
-} 
\ No newline at end of file
+
+    private static String versionTag(InventoryItem item) {
+        return "\"" + item.getVersion() + "\"";
+    }
+
+    // Accepts a list of the ETags produced above, or "*" (no version check). If-Match uses
+    // strong comparison, so weak tags in the list never match.
+    private static List<Long> parseVersionTags(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        List<Long> versions = new ArrayList<>();
+        for (String entry : ifMatch.split(",")) {
+            String tag = entry.trim();
+            if (tag.startsWith("W/")) {
+                continue;
+            }
+            try {
+                versions.add(Long.valueOf(tag.replace("\"", "")));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("If-Match must contain item versions, got: " + ifMatch);
+            }
+        }
+        if (versions.isEmpty()) {
+            throw PreconditionFailedException.weakTagsOnly(ifMatch);
+        }
+        return versions;
+    }
+}
\ No newline at end of file
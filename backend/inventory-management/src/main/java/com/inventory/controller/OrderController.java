@@ -16,9 +16,10 @@ public class OrderController {
     @PostMapping("/{itemId}")
     public ResponseEntity<ApiResponse<Order>> createOrder(
             @PathVariable Long itemId,
-            @RequestParam Integer quantity) {
+            @RequestParam Integer quantity,
+            @RequestParam(required = false) String warehouse) {
         try {
-            Order order = orderService.createOrder(itemId, quantity);
+            Order order = orderService.createOrder(itemId, quantity, warehouse);
             return ResponseEntity.ok(new ApiResponse<>(
                 String.format("Successfully created order for %d units of item ID %d", 
                     quantity, itemId),
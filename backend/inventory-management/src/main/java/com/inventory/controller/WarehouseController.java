@@ -0,0 +1,38 @@
+package com.inventory.controller;
+
+import com.inventory.model.ApiResponse;
+import com.inventory.model.Warehouse;
+import com.inventory.service.WarehouseService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/warehouses")
+@RequiredArgsConstructor
+public class WarehouseController {
+
+    private final WarehouseService warehouseService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<Warehouse>>> getAllWarehouses() {
+        List<Warehouse> warehouses = warehouseService.getAllWarehouses();
+        return ResponseEntity.ok(new ApiResponse<>(
+            String.format("Successfully retrieved %d warehouses", warehouses.size()),
+            warehouses
+        ));
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<Warehouse>> createWarehouse(@Valid @RequestBody Warehouse warehouse) {
+        Warehouse createdWarehouse = warehouseService.createWarehouse(warehouse);
+        return new ResponseEntity<>(new ApiResponse<>(
+            String.format("Successfully created warehouse '%s'", createdWarehouse.getCode()),
+            createdWarehouse
+        ), HttpStatus.CREATED);
+    }
+}
@@ -27,6 +27,15 @@ public class InventoryException extends RuntimeException {
         );
     }
 
+    public static InventoryException insufficientStockAtWarehouse(String itemName, String warehouseCode,
+                                                                  Integer requested, Integer available) {
+        return new InventoryException(
+            String.format("Insufficient stock for item '%s' at warehouse %s. Requested: %d, Available: %d", 
+                itemName, warehouseCode, requested, available),
+            "INSUFFICIENT_STOCK"
+        );
+    }
+
     public static InventoryException supplierError(String details) {
         return new InventoryException(
             String.format("Error communicating with supplier: %s", details),
@@ -40,4 +49,25 @@ public class InventoryException extends RuntimeException {
             "DUPLICATE_SKU"
         );
     }
-} 
\ No newline at end of file
+
+    public static InventoryException warehouseNotFound(String code) {
+        return new InventoryException(
+            String.format("Warehouse with code %s not found", code),
+            "WAREHOUSE_NOT_FOUND"
+        );
+    }
+
+    public static InventoryException duplicateWarehouse(String code) {
+        return new InventoryException(
+            String.format("A warehouse with code %s already exists", code),
+            "DUPLICATE_WAREHOUSE"
+        );
+    }
+
+    public static InventoryException warehouseNotServed(String code) {
+        return new InventoryException(
+            String.format("Warehouse %s is not served by this instance", code),
+            "WAREHOUSE_NOT_SERVED"
+        );
+    }
+}
\ No newline at end of file
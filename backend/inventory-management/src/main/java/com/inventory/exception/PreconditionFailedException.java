@@ -0,0 +1,23 @@
+package com.inventory.exception;
+
+import java.util.List;
+
+public class PreconditionFailedException extends InventoryException {
+
+    public PreconditionFailedException(String message) {
+        super(message, "PRECONDITION_FAILED");
+    }
+
+    public static PreconditionFailedException versionMismatch(Long id, List<Long> expected, Long actual) {
+        return new PreconditionFailedException(
+            String.format("Inventory item with ID %d is at version %d, but one of versions %s was expected",
+                id, actual, expected)
+        );
+    }
+
+    public static PreconditionFailedException weakTagsOnly(String ifMatch) {
+        return new PreconditionFailedException(
+            String.format("If-Match uses strong comparison and weak entity tags never match, got: %s", ifMatch)
+        );
+    }
+}
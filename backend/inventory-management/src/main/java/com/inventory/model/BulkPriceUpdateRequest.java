@@ -0,0 +1,14 @@
+package com.inventory.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkPriceUpdateRequest {
+
+    @NotEmpty(message = "At least one price update is required")
+    private List<@Valid PriceUpdate> prices;
+}
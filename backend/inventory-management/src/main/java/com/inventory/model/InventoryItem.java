@@ -1,13 +1,16 @@
 package com.inventory.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Data
 @Entity
+@DynamicUpdate
 @Table(name = "inventory_items")
 public class InventoryItem {
     
@@ -34,4 +37,8 @@ public class InventoryItem {
     
     @Column(name = "unit_price")
     private Double unitPrice;
+
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
 } 
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.inventory.model;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+/**
+ * Partial update of an inventory item. Only non-null fields are applied, so a field
+ * cannot be cleared through a patch.
+ */
+@Data
+public class InventoryItemPatch {
+
+    @Pattern(regexp = ".*\\S.*", message = "Name cannot be blank")
+    private String name;
+
+    @Min(value = 0, message = "Quantity cannot be negative")
+    private Integer quantity;
+
+    @Min(value = 0, message = "Minimum stock level cannot be negative")
+    private Integer minStockLevel;
+
+    private String description;
+
+    private Double unitPrice;
+}
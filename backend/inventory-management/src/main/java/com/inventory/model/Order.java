@@ -21,6 +21,10 @@ public class Order {
     @ManyToOne
     @JoinColumn(name = "item_id")
     private InventoryItem item;
+
+    @ManyToOne
+    @JoinColumn(name = "warehouse_id")
+    private Warehouse warehouse;
     
     private Integer quantity;
     private String status;
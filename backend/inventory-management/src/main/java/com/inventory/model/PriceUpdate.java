@@ -0,0 +1,18 @@
+package com.inventory.model;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceUpdate {
+
+    @NotNull(message = "Item ID is required")
+    private Long id;
+
+    @NotNull(message = "Unit price is required")
+    private Double unitPrice;
+}
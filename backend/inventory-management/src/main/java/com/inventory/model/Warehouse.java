@@ -0,0 +1,27 @@
+package com.inventory.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Entity
+@Table(name = "warehouses")
+@NoArgsConstructor
+@AllArgsConstructor
+public class Warehouse {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotBlank(message = "Code is required")
+    @Column(nullable = false, unique = true)
+    private String code;
+
+    @NotBlank(message = "Name is required")
+    @Column(nullable = false)
+    private String name;
+}
@@ -0,0 +1,36 @@
+package com.inventory.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Stock of one item held at one warehouse. InventoryItem.quantity is the sum of these
+ * rows and is kept up to date on every stock movement.
+ */
+@Data
+@Entity
+@Table(name = "warehouse_stock",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"item_id", "warehouse_id"}))
+@NoArgsConstructor
+@AllArgsConstructor
+public class WarehouseStock {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "item_id", nullable = false)
+    private InventoryItem item;
+
+    @ManyToOne
+    @JoinColumn(name = "warehouse_id", nullable = false)
+    private Warehouse warehouse;
+
+    @Column(nullable = false)
+    private Integer quantity;
+}
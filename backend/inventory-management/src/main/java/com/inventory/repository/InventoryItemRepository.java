@@ -2,8 +2,24 @@ package com.inventory.repository;
 
 import com.inventory.model.InventoryItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface InventoryItemRepository extends JpaRepository<InventoryItem, Long> {
+public interface InventoryItemRepository extends JpaRepository<InventoryItem, Long>, InventoryItemRepositoryCustom {
+
+    // Keeps the item-level aggregate in step with a warehouse stock movement. The version
+    // is bumped as well, so an ETag taken before the movement no longer matches.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update InventoryItem i set i.quantity = i.quantity + :delta, i.version = i.version + 1 " +
+           "where i.id = :id")
+    int adjustQuantity(@Param("id") Long id, @Param("delta") int delta);
+
+    // Same as above, but only while the item is still at the given version, returns 0 otherwise
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update InventoryItem i set i.quantity = i.quantity + :delta, i.version = i.version + 1 " +
+           "where i.id = :id and i.version = :version")
+    int adjustQuantity(@Param("id") Long id, @Param("delta") int delta, @Param("version") Long version);
 } 
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.inventory.repository;
+
+import com.inventory.model.PriceUpdate;
+
+import java.util.List;
+
+public interface InventoryItemRepositoryCustom {
+
+    /**
+     * Applies all price updates as one JDBC batch of the same UPDATE statement, bumping
+     * each row's version. Returns the IDs that matched no item.
+     */
+    List<Long> updatePrices(List<PriceUpdate> prices);
+}
@@ -0,0 +1,33 @@
+package com.inventory.repository;
+
+import com.inventory.model.PriceUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class InventoryItemRepositoryImpl implements InventoryItemRepositoryCustom {
+    private static final String UPDATE_PRICE_SQL =
+        "update inventory_items set unit_price = ?, version = version + 1 where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> updatePrices(List<PriceUpdate> prices) {
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_PRICE_SQL, prices, prices.size(),
+            (statement, update) -> {
+                statement.setDouble(1, update.getUnitPrice());
+                statement.setLong(2, update.getId());
+            });
+
+        List<Long> missingIds = new ArrayList<>();
+        for (int i = 0; i < prices.size(); i++) {
+            if (counts[0][i] == 0) {
+                missingIds.add(prices.get(i).getId());
+            }
+        }
+        return missingIds;
+    }
+}
@@ -1,7 +1,14 @@
 package com.inventory.repository;
 
 import com.inventory.model.Order;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
-} 
\ No newline at end of file
+
+    @Query("select o.item.id from Order o group by o.item.id order by count(o) desc")
+    List<Long> findMostOrderedItemIds(Pageable pageable);
+}
@@ -0,0 +1,13 @@
+package com.inventory.repository;
+
+import com.inventory.model.Warehouse;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface WarehouseRepository extends JpaRepository<Warehouse, Long> {
+
+    Optional<Warehouse> findByCode(String code);
+
+    boolean existsByCode(String code);
+}
@@ -0,0 +1,28 @@
+package com.inventory.repository;
+
+import com.inventory.model.WarehouseStock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WarehouseStockRepository extends JpaRepository<WarehouseStock, Long> {
+
+    List<WarehouseStock> findByItemIdOrderByWarehouseCode(Long itemId);
+
+    Optional<WarehouseStock> findByItemIdAndWarehouseId(Long itemId, Long warehouseId);
+
+    // Only applies when the location keeps a non-negative quantity, returns 0 otherwise
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update WarehouseStock s set s.quantity = s.quantity + :delta " +
+           "where s.item.id = :itemId and s.warehouse.id = :warehouseId and s.quantity + :delta >= 0")
+    int adjustQuantity(@Param("itemId") Long itemId, @Param("warehouseId") Long warehouseId,
+                       @Param("delta") int delta);
+
+    @Modifying
+    @Query("delete from WarehouseStock s where s.item.id = :itemId")
+    void deleteByItemId(@Param("itemId") Long itemId);
+}
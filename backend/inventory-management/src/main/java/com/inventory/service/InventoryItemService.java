@@ -1,6 +1,9 @@
 package com.inventory.service;
 
+import com.inventory.exception.PreconditionFailedException;
 import com.inventory.model.InventoryItem;
+import com.inventory.model.InventoryItemPatch;
+import com.inventory.model.PriceUpdate;
 import com.inventory.repository.InventoryItemRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +17,9 @@ import java.util.List;
 public class InventoryItemService {
 
     private final InventoryItemRepository inventoryItemRepository;
+    private final WarehouseService warehouseService;
 
+    @Transactional(readOnly = true)
     public List<InventoryItem> getAllItems() {
         List<InventoryItem> items = inventoryItemRepository.findAll();
         if (items.isEmpty()) {
@@ -23,6 +28,7 @@ public class InventoryItemService {
         return items;
     }
 
+    @Transactional(readOnly = true)
     public InventoryItem getItemById(Long id) {
         return inventoryItemRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(
@@ -31,16 +37,17 @@ public class InventoryItemService {
 
     @Transactional
     public InventoryItem createItem(InventoryItem item) {
-        return inventoryItemRepository.save(item);
+        InventoryItem createdItem = inventoryItemRepository.save(item);
+        warehouseService.initializeStock(createdItem);
+        return createdItem;
     }
 
     @Transactional
     public InventoryItem updateItem(Long id, InventoryItem updatedItem) {
-        InventoryItem existingItem = getItemById(id);
+        InventoryItem existingItem = bookQuantity(getItemById(id), updatedItem.getQuantity());
         
         // Update fields
         existingItem.setName(updatedItem.getName());
-        existingItem.setQuantity(updatedItem.getQuantity());
         existingItem.setMinStockLevel(updatedItem.getMinStockLevel());
         existingItem.setDescription(updatedItem.getDescription());
         existingItem.setUnitPrice(updatedItem.getUnitPrice());
@@ -48,12 +55,81 @@ public class InventoryItemService {
         return inventoryItemRepository.save(existingItem);
     }
 
+    /**
+     * Applies only the non-null fields of the patch. The entity uses dynamic updates, so the
+     * resulting UPDATE only touches the changed columns. When expectedVersions is given, the
+     * item must still be at one of those versions.
+     */
+    @Transactional
+    public InventoryItem patchItem(Long id, InventoryItemPatch patch, List<Long> expectedVersions) {
+        InventoryItem existingItem = getItemById(id);
+        if (expectedVersions != null && !expectedVersions.contains(existingItem.getVersion())) {
+            throw PreconditionFailedException.versionMismatch(id, expectedVersions, existingItem.getVersion());
+        }
+        if (patch.getQuantity() != null) {
+            existingItem = bookQuantity(existingItem, patch.getQuantity());
+        }
+
+        if (patch.getName() != null) {
+            existingItem.setName(patch.getName());
+        }
+        if (patch.getMinStockLevel() != null) {
+            existingItem.setMinStockLevel(patch.getMinStockLevel());
+        }
+        if (patch.getDescription() != null) {
+            existingItem.setDescription(patch.getDescription());
+        }
+        if (patch.getUnitPrice() != null) {
+            existingItem.setUnitPrice(patch.getUnitPrice());
+        }
+
+        return inventoryItemRepository.save(existingItem);
+    }
+
+    /**
+     * Moves stock of an item at a warehouse and returns the item as the movement left it.
+     * The item is read in the same transaction as the movement, so it comes from the
+     * primary even when read-only transactions go to a replica that may lag behind.
+     */
+    @Transactional
+    public InventoryItem adjustStock(Long id, String warehouseCode, int delta) {
+        warehouseService.adjustStock(id, warehouseCode, delta);
+        return getItemById(id);
+    }
+
+    /**
+     * Updates the prices of many items in one batched statement, without loading them.
+     * Returns the IDs that matched no item.
+     */
+    @Transactional
+    public List<Long> updatePrices(List<PriceUpdate> prices) {
+        return inventoryItemRepository.updatePrices(prices);
+    }
+
     @Transactional
     public void deleteItem(Long id) {
         if (!inventoryItemRepository.existsById(id)) {
             throw new EntityNotFoundException(
                 String.format("Cannot delete: Inventory item with ID %d not found", id));
         }
+        warehouseService.deleteStock(id);
         inventoryItemRepository.deleteById(id);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Brings the item's quantity to the requested total and returns the item as it is
+     * afterwards. The quantity is an aggregate over warehouses, so the difference is booked
+     * as a stock movement at the default warehouse instead of being written to the item row.
+     * The movement is checked against the version the difference was computed from, and runs
+     * before any other change to the item so it takes the row locks in the same order as
+     * every other stock movement.
+     */
+    private InventoryItem bookQuantity(InventoryItem item, int quantity) {
+        int delta = quantity - item.getQuantity();
+        if (delta == 0) {
+            return item;
+        }
+        warehouseService.adjustDefaultStock(item.getId(), delta, item.getVersion());
+        return getItemById(item.getId());
+    }
+}
@@ -1,32 +1,52 @@
 package com.inventory.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.inventory.exception.InventoryException;
 import com.inventory.model.InventoryItem;
 import com.inventory.model.Order;
+import com.inventory.model.Warehouse;
 import com.inventory.repository.InventoryItemRepository;
 import com.inventory.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
+    private static final Logger logger = LoggerFactory.getLogger(OrderService.class);
+    private static final ObjectMapper BINARY_MAPPER = new CBORMapper();
+
     private final OrderRepository orderRepository;
     private final InventoryItemRepository itemRepository;
     private final RestTemplate restTemplate;
+    private final WarehouseService warehouseService;
+    private final ObjectMapper objectMapper;
     
     @Value("${supplier.api.url}")
     private String supplierApiUrl;
+
+    // Switched off for good once the supplier turns the binary encoding down
+    @Value("${supplier.api.binary-encoding:true}")
+    private volatile boolean binaryEncoding;
     
     @Transactional
-    public Order createOrder(Long itemId, Integer quantity) {
+    public Order createOrder(Long itemId, Integer quantity, String warehouseCode) {
         // Validate input
         if (quantity <= 0) {
             throw new IllegalArgumentException("Order quantity must be greater than 0");
@@ -35,24 +55,18 @@ public class OrderService {
         // Get the item
         InventoryItem item = itemRepository.findById(itemId)
             .orElseThrow(() -> InventoryException.itemNotFound(itemId));
+
+        // Check the routing before anything is ordered from the supplier
+        Warehouse warehouse = warehouseService.resolveWarehouse(warehouseCode);
             
         // Create order request for supplier
-        var request = new SupplierOrderRequest(
-            item.getName(),
-            quantity,
-            item.getDescription(),
-            item.getUnitPrice()
-        );
+        var request = toSupplierRequest(item, quantity);
         
         // Call supplier API
         SupplierOrderResponse supplierResponse;
         try {
             String url = supplierApiUrl.trim() + "/api/orders";
-            ResponseEntity<SupplierOrderResponse> response = restTemplate.postForEntity(
-                url,
-                request,
-                SupplierOrderResponse.class
-            );
+            ResponseEntity<SupplierOrderResponse> response = postToSupplier(url, request);
             
             if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
                 throw InventoryException.supplierError("Supplier API returned unsuccessful response");
@@ -63,18 +77,20 @@ public class OrderService {
             throw InventoryException.supplierError("Failed to communicate with supplier API: " + e.getMessage());
         }
         
+        // Update inventory at the warehouse the order is delivered to
+        warehouseService.adjustStock(itemId, warehouse.getCode(), quantity);
+        item = itemRepository.findById(itemId)
+            .orElseThrow(() -> InventoryException.itemNotFound(itemId));
+        
         // Create and save order
         Order order = new Order();
         order.setSupplierOrderId(supplierResponse.getOrderId());
         order.setItem(item);
+        order.setWarehouse(warehouse);
         order.setQuantity(quantity);
         order.setStatus(supplierResponse.getStatus());
         order.setDeliveryDate(LocalDateTime.now());
         
-        // Update inventory
-        item.setQuantity(item.getQuantity() + quantity);
-        itemRepository.save(item);
-        
         Order savedOrder = orderRepository.save(order);
         
         // Log success
@@ -83,6 +99,55 @@ public class OrderService {
             
         return savedOrder;
     }
+
+    /**
+     * Runs the order path up to, but not including, the supplier call: item lookup and
+     * supplier payload serialization. Used by the startup warm-up so these are JIT-compiled
+     * before the instance reports ready, without placing an order.
+     */
+    @Transactional(readOnly = true)
+    public void warmUpOrderPath(Long itemId) {
+        InventoryItem item = itemRepository.findById(itemId)
+            .orElseThrow(() -> InventoryException.itemNotFound(itemId));
+        ObjectMapper mapper = binaryEncoding ? BINARY_MAPPER : objectMapper;
+        SupplierOrderResponse response = new SupplierOrderResponse();
+        response.setOrderId("warm-up");
+        response.setStatus("COMPLETED");
+        try {
+            mapper.writeValueAsBytes(toSupplierRequest(item, 1));
+            mapper.readValue(mapper.writeValueAsBytes(response), SupplierOrderResponse.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Order path warm-up failed for item " + itemId, e);
+        }
+    }
+
+    /**
+     * Sends the order as CBOR and asks for the supplier's slim CBOR receipt, with JSON as the
+     * fallback. A supplier that rejects CBOR with 415 or 406 is called with JSON from then on.
+     */
+    private ResponseEntity<SupplierOrderResponse> postToSupplier(String url, SupplierOrderRequest request) {
+        if (binaryEncoding) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_CBOR);
+            headers.setAccept(List.of(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON));
+            try {
+                return restTemplate.postForEntity(url, new HttpEntity<>(request, headers), SupplierOrderResponse.class);
+            } catch (HttpClientErrorException.UnsupportedMediaType | HttpClientErrorException.NotAcceptable e) {
+                logger.warn("Supplier does not support CBOR ({}), falling back to JSON", e.getStatusCode());
+                binaryEncoding = false;
+            }
+        }
+        return restTemplate.postForEntity(url, request, SupplierOrderResponse.class);
+    }
+
+    private SupplierOrderRequest toSupplierRequest(InventoryItem item, Integer quantity) {
+        return new SupplierOrderRequest(
+            item.getName(),
+            quantity,
+            item.getDescription(),
+            item.getUnitPrice()
+        );
+    }
     
     // DTO classes for supplier API communication
     @lombok.Data
@@ -0,0 +1,198 @@
+package com.inventory.service;
+
+import com.inventory.exception.InventoryException;
+import com.inventory.model.InventoryItem;
+import com.inventory.model.Warehouse;
+import com.inventory.model.WarehouseStock;
+import com.inventory.repository.InventoryItemRepository;
+import com.inventory.repository.WarehouseRepository;
+import com.inventory.repository.WarehouseStockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Manages warehouses and the per-location stock rows behind InventoryItem.quantity.
+ *
+ * A stock movement first updates the (item, warehouse) row, which is where the
+ * availability check happens, and only then applies the same delta to the item
+ * aggregate as a blind increment. Concurrent movements of a hot item at different
+ * locations therefore only serialize on that short final increment.
+ *
+ * The default warehouse is created at startup. Bookings there that come from item
+ * maintenance (new items, PUT/PATCH quantities) are not subject to served-locations,
+ * so every instance can create and edit items.
+ */
+@Service
+@RequiredArgsConstructor
+public class WarehouseService {
+
+    private final WarehouseRepository warehouseRepository;
+    private final WarehouseStockRepository warehouseStockRepository;
+    private final InventoryItemRepository inventoryItemRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${inventory.warehouse.default:MAIN}")
+    private String defaultWarehouseCode;
+
+    // Locations this instance accepts stock movements for, empty means all of them
+    @Value("${inventory.warehouse.served-locations:}")
+    private List<String> servedLocations;
+
+    /**
+     * Creates the default warehouse unless it exists, before the instance takes traffic.
+     * The check runs in the same read-write transaction as the insert, so it reads from
+     * the primary even when read-only queries are routed to a replica.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void createDefaultWarehouse() {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                if (!warehouseRepository.existsByCode(defaultWarehouseCode)) {
+                    warehouseRepository.save(new Warehouse(null, defaultWarehouseCode, "Default warehouse"));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another instance on the same database created it first
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<Warehouse> getAllWarehouses() {
+        return warehouseRepository.findAll();
+    }
+
+    @Transactional
+    public Warehouse createWarehouse(Warehouse warehouse) {
+        if (warehouseRepository.existsByCode(warehouse.getCode())) {
+            throw InventoryException.duplicateWarehouse(warehouse.getCode());
+        }
+        return warehouseRepository.save(warehouse);
+    }
+
+    @Transactional(readOnly = true)
+    public List<WarehouseStock> getStock(Long itemId) {
+        if (!inventoryItemRepository.existsById(itemId)) {
+            throw InventoryException.itemNotFound(itemId);
+        }
+        return warehouseStockRepository.findByItemIdOrderByWarehouseCode(itemId);
+    }
+
+    /**
+     * Puts the item's current quantity into the default warehouse. Used for new items,
+     * whose aggregate already holds that quantity.
+     */
+    @Transactional
+    public void initializeStock(InventoryItem item) {
+        warehouseStockRepository.save(new WarehouseStock(null, item, defaultWarehouse(), item.getQuantity()));
+    }
+
+    /**
+     * Moves stock of an item in or out of a warehouse, the default one when warehouseCode
+     * is null, and updates the item aggregate by the same delta.
+     */
+    @Transactional
+    public Warehouse adjustStock(Long itemId, String warehouseCode, int delta) {
+        Warehouse warehouse = resolveWarehouse(warehouseCode);
+        moveStock(itemId, warehouse, delta, null);
+        return warehouse;
+    }
+
+    /**
+     * Moves stock of an item in or out of the default warehouse, but only while the item
+     * is still at expectedVersion. Used to book a requested total quantity, whose delta
+     * was computed from that version; fails with a version conflict if the item changed
+     * since, so a concurrent stock movement is never overwritten.
+     */
+    @Transactional
+    public void adjustDefaultStock(Long itemId, int delta, Long expectedVersion) {
+        moveStock(itemId, defaultWarehouse(), delta, expectedVersion);
+    }
+
+    @Transactional
+    public void deleteStock(Long itemId) {
+        warehouseStockRepository.deleteByItemId(itemId);
+    }
+
+    private void moveStock(Long itemId, Warehouse warehouse, int delta, Long expectedVersion) {
+        if (delta == 0) {
+            return;
+        }
+
+        int updated = warehouseStockRepository.adjustQuantity(itemId, warehouse.getId(), delta);
+        if (updated == 0 && delta > 0) {
+            // First stock of this item at the location
+            createEmptyStock(itemId, warehouse.getId());
+            updated = warehouseStockRepository.adjustQuantity(itemId, warehouse.getId(), delta);
+        }
+        if (updated == 0) {
+            InventoryItem item = inventoryItemRepository.findById(itemId)
+                .orElseThrow(() -> InventoryException.itemNotFound(itemId));
+            WarehouseStock stock = warehouseStockRepository
+                .findByItemIdAndWarehouseId(itemId, warehouse.getId())
+                .orElse(null);
+            throw InventoryException.insufficientStockAtWarehouse(
+                item.getName(), warehouse.getCode(), -delta, stock == null ? 0 : stock.getQuantity());
+        }
+
+        if (expectedVersion == null) {
+            inventoryItemRepository.adjustQuantity(itemId, delta);
+        } else if (inventoryItemRepository.adjustQuantity(itemId, delta, expectedVersion) == 0) {
+            throw new ObjectOptimisticLockingFailureException(InventoryItem.class, itemId);
+        }
+    }
+
+    /**
+     * Returns the warehouse for a code, the default one when the code is null. Fails if
+     * this instance does not serve the location.
+     */
+    @Transactional
+    public Warehouse resolveWarehouse(String warehouseCode) {
+        String code = locationCode(warehouseCode);
+        if (!servedLocations.isEmpty() && !servedLocations.contains(code)) {
+            throw InventoryException.warehouseNotServed(code);
+        }
+        return warehouseRepository.findByCode(code)
+            .orElseThrow(() -> InventoryException.warehouseNotFound(code));
+    }
+
+    /**
+     * Returns the code of the warehouse a movement goes to, the default one when the code is null.
+     */
+    public String locationCode(String warehouseCode) {
+        return warehouseCode == null || warehouseCode.isBlank() ? defaultWarehouseCode : warehouseCode;
+    }
+
+    private Warehouse defaultWarehouse() {
+        return warehouseRepository.findByCode(defaultWarehouseCode)
+            .orElseThrow(() -> InventoryException.warehouseNotFound(defaultWarehouseCode));
+    }
+
+    /**
+     * Inserts an empty stock row in its own transaction, so that concurrent first movements
+     * at a location all end up incrementing the same row. Losing that insert race is fine.
+     */
+    private void createEmptyStock(Long itemId, Long warehouseId) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            transaction.executeWithoutResult(status -> warehouseStockRepository.saveAndFlush(new WarehouseStock(
+                null,
+                inventoryItemRepository.getReferenceById(itemId),
+                warehouseRepository.getReferenceById(warehouseId),
+                0)));
+        } catch (DataIntegrityViolationException e) {
+            // Created concurrently, or the item does not exist, which the caller reports
+        }
+    }
+}
@@ -0,0 +1,47 @@
+-- Schema used by the fast-startup profile, where Hibernate only validates
+-- the mapping instead of diffing and updating the schema on every boot.
+-- Keep in sync with the entities in com.inventory.model.
+
+create table if not exists inventory_items (
+    id bigint generated by default as identity,
+    description varchar(255),
+    min_stock_level integer not null check (min_stock_level>=0),
+    name varchar(255) not null,
+    quantity integer not null check (quantity>=0),
+    unit_price float(53),
+    version bigint,
+    primary key (id)
+);
+
+create table if not exists warehouses (
+    id bigint generated by default as identity,
+    code varchar(255) not null,
+    name varchar(255) not null,
+    primary key (id),
+    constraint uk_warehouses_code unique (code)
+);
+
+create table if not exists warehouse_stock (
+    id bigint generated by default as identity,
+    quantity integer not null,
+    item_id bigint not null,
+    warehouse_id bigint not null,
+    primary key (id),
+    constraint uk_warehouse_stock_item_warehouse unique (item_id, warehouse_id),
+    constraint fk_warehouse_stock_item foreign key (item_id) references inventory_items (id),
+    constraint fk_warehouse_stock_warehouse foreign key (warehouse_id) references warehouses (id)
+);
+
+create table if not exists orders (
+    id bigint generated by default as identity,
+    delivery_date timestamp(6),
+    order_date timestamp(6),
+    quantity integer,
+    status varchar(255),
+    supplier_order_id varchar(255),
+    item_id bigint,
+    warehouse_id bigint,
+    primary key (id),
+    constraint fk_orders_item foreign key (item_id) references inventory_items (id),
+    constraint fk_orders_warehouse foreign key (warehouse_id) references warehouses (id)
+);
@@ -0,0 +1,86 @@
+package com.inventory.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Points the replica at its own database holding a stale copy of the item, so every
+ * response shows which side it was read from.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routingprimary",
+    "inventory.datasource.replica.enabled=true",
+    "inventory.datasource.replica.url=" + ReadReplicaRoutingTest.REPLICA_URL
+})
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routingreplica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Test
+    void readsComeFromReplicaAndWritesReturnPrimaryState() throws Exception {
+        String created = mockMvc.perform(post("/api/inventory")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Widget\", \"quantity\": 10, \"minStockLevel\": 1, \"unitPrice\": 2.5}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).path("data").path("id").asLong();
+        seedReplica(id);
+
+        mockMvc.perform(get("/api/inventory/{id}", id))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.name").value("Replica copy"))
+            .andExpect(jsonPath("$.data.quantity").value(3));
+
+        // The movement response is read before commit, so it shows the primary's state
+        mockMvc.perform(post("/api/inventory/{id}/stock", id).param("delta", "5"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+            .andExpect(jsonPath("$.data.name").value("Widget"))
+            .andExpect(jsonPath("$.data.quantity").value(15));
+
+        assertEquals(15, new JdbcTemplate(primaryDataSource).queryForObject(
+            "select quantity from inventory_items where id = ?", Integer.class, id));
+    }
+
+    private static void seedReplica(long id) {
+        DataSource replica = new DriverManagerDataSource(REPLICA_URL, "sa", "password");
+        new ResourceDatabasePopulator(new ClassPathResource("db/schema.sql")).execute(replica);
+        new JdbcTemplate(replica).update(
+            "insert into inventory_items (id, name, quantity, min_stock_level, unit_price, version) " +
+            "values (?, 'Replica copy', 3, 1, 2.5, 0)", id);
+    }
+}
@@ -0,0 +1,113 @@
+package com.inventory.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:inventoryitemcontrollertest")
+class InventoryItemControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void stockMovementInvalidatesETagForQuantityPatch() throws Exception {
+        long id = createItem(10);
+        String etag = mockMvc.perform(get("/api/inventory/{id}", id))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String movedEtag = mockMvc.perform(post("/api/inventory/{id}/stock", id).param("delta", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.quantity").value(15))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, movedEtag);
+
+        mockMvc.perform(patch("/api/inventory/{id}", id)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"quantity\": 20}"))
+            .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(patch("/api/inventory/{id}", id)
+                .header(HttpHeaders.IF_MATCH, movedEtag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"quantity\": 20}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.quantity").value(20));
+    }
+
+    @Test
+    void ifMatchUsesStrongComparisonOverTagList() throws Exception {
+        long id = createItem(10);
+
+        mockMvc.perform(patch("/api/inventory/{id}", id)
+                .header(HttpHeaders.IF_MATCH, "W/\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\": \"Weak\"}"))
+            .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(patch("/api/inventory/{id}", id)
+                .header(HttpHeaders.IF_MATCH, "\"7\", W/\"0\", \"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\": \"Listed\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.description").value("Listed"));
+
+        mockMvc.perform(patch("/api/inventory/{id}", id)
+                .header(HttpHeaders.IF_MATCH, "\"0\", \"7\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\": \"Stale\"}"))
+            .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void quantityPatchBooksDifferenceAtDefaultWarehouse() throws Exception {
+        long id = createItem(10);
+
+        mockMvc.perform(patch("/api/inventory/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"quantity\": 4, \"description\": \"Patched\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.quantity").value(4))
+            .andExpect(jsonPath("$.data.description").value("Patched"));
+
+        mockMvc.perform(get("/api/inventory/{id}/stock", id))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].warehouse.code").value("MAIN"))
+            .andExpect(jsonPath("$.data[0].quantity").value(4));
+    }
+
+    private long createItem(int quantity) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/inventory")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(String.format(
+                    "{\"name\": \"Widget\", \"quantity\": %d, \"minStockLevel\": 1, \"unitPrice\": 2.5}", quantity)))
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+            .andReturn();
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        return body.path("data").path("id").asLong();
+    }
+}
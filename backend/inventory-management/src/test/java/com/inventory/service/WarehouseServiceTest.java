@@ -0,0 +1,123 @@
+package com.inventory.service;
+
+import com.inventory.exception.InventoryException;
+import com.inventory.model.InventoryItem;
+import com.inventory.model.InventoryItemPatch;
+import com.inventory.model.Warehouse;
+import com.inventory.model.WarehouseStock;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:warehouseservicetest",
+    "inventory.warehouse.served-locations=EAST"
+})
+class WarehouseServiceTest {
+
+    @Autowired
+    private WarehouseService warehouseService;
+
+    @Autowired
+    private InventoryItemService inventoryItemService;
+
+    @Test
+    void itemMaintenanceBooksAtDefaultWarehouseWhenItIsNotServed() {
+        InventoryItem item = inventoryItemService.createItem(newItem(10));
+
+        InventoryItemPatch patch = new InventoryItemPatch();
+        patch.setQuantity(4);
+        inventoryItemService.patchItem(item.getId(), patch, null);
+
+        List<WarehouseStock> stock = warehouseService.getStock(item.getId());
+        assertEquals(1, stock.size());
+        assertEquals("MAIN", stock.get(0).getWarehouse().getCode());
+        assertEquals(4, stock.get(0).getQuantity());
+
+        InventoryException e = assertThrows(InventoryException.class,
+            () -> warehouseService.adjustStock(item.getId(), null, 1));
+        assertEquals("WAREHOUSE_NOT_SERVED", e.getCode());
+    }
+
+    @Test
+    void concurrentFirstMovementsAtLocationAllApply() throws Exception {
+        warehouseService.createWarehouse(new Warehouse(null, "EAST", "East warehouse"));
+        InventoryItem item = inventoryItemService.createItem(newItem(0));
+
+        int movements = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(movements);
+        try {
+            List<Future<Warehouse>> results = new ArrayList<>();
+            for (int i = 0; i < movements; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return warehouseService.adjustStock(item.getId(), "EAST", 1);
+                }));
+            }
+            start.countDown();
+            for (Future<Warehouse> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(movements, inventoryItemService.getItemById(item.getId()).getQuantity());
+        WarehouseStock east = warehouseService.getStock(item.getId()).stream()
+            .filter(stock -> stock.getWarehouse().getCode().equals("EAST"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(movements, east.getQuantity());
+    }
+
+    @Nested
+    @TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:warehouseserviceallservedtest",
+        "inventory.warehouse.served-locations="
+    })
+    class AllLocationsServed {
+
+        @Autowired
+        private WarehouseService warehouseService;
+
+        @Autowired
+        private InventoryItemService inventoryItemService;
+
+        @Test
+        void defaultStockBookingFailsWhenItemMovedSinceRead() {
+            InventoryItem item = inventoryItemService.createItem(newItem(10));
+            Long readVersion = inventoryItemService.getItemById(item.getId()).getVersion();
+
+            // A stock movement lands between reading the item and booking the new total
+            warehouseService.adjustStock(item.getId(), null, -3);
+
+            assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> warehouseService.adjustDefaultStock(item.getId(), 10, readVersion));
+            assertEquals(7, inventoryItemService.getItemById(item.getId()).getQuantity());
+        }
+    }
+
+    private static InventoryItem newItem(int quantity) {
+        InventoryItem item = new InventoryItem();
+        item.setName("Widget");
+        item.setQuantity(quantity);
+        item.setMinStockLevel(1);
+        item.setUnitPrice(2.5);
+        return item;
+    }
+}
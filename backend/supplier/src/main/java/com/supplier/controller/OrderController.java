@@ -1,21 +1,32 @@
 package com.supplier.controller;
 
+import com.supplier.exception.OrderNotFoundException;
+import com.supplier.model.OrderPage;
+import com.supplier.model.OrderReceipt;
 import com.supplier.model.OrderRequest;
 import com.supplier.model.OrderResponse;
+import com.supplier.store.OrderStore;
 import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.Map;
 import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/orders")
+@RequiredArgsConstructor
 public class OrderController {
     private static final Logger logger = LoggerFactory.getLogger(OrderController.class);
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final OrderStore orderStore;
 
     @PostMapping
     public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody OrderRequest request) {
@@ -30,29 +41,10 @@ public class OrderController {
             ));
         }
 
-        // Generate a unique order ID
-        String orderId = UUID.randomUUID().toString();
-        
         try {
-            // Log the order details
-            logger.info("Processing order: orderId={}, item={}, quantity={}, unitPrice={}", 
-                orderId, request.getName(), request.getQuantity(), request.getUnitPrice());
-            
             // Create response with detailed message
-            OrderResponse response = new OrderResponse(
-                orderId,
-                "COMPLETED",
-                String.format("Order %s has been processed successfully. %d units of '%s' will be delivered at $%.2f per unit.", 
-                    orderId, 
-                    request.getQuantity(), 
-                    request.getName(),
-                    request.getUnitPrice()),
-                request
-            );
-            
-            logger.info("Order completed successfully: orderId={}, totalValue=${}", 
-                orderId, 
-                request.getQuantity() * request.getUnitPrice());
+            OrderResponse response = completeOrder(request);
+            response.setMessage(completedMessage(response.getOrderId(), request));
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
@@ -67,6 +59,39 @@ public class OrderController {
         }
     }
 
+    @PostMapping(produces = MediaType.APPLICATION_CBOR_VALUE)
+    public ResponseEntity<OrderReceipt> createOrderCompact(@Valid @RequestBody OrderRequest request) {
+        try {
+            OrderResponse response = completeOrder(request);
+            return ResponseEntity.ok(new OrderReceipt(response.getOrderId(), response.getStatus()));
+        } catch (Exception e) {
+            logger.error("Error processing order: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(new OrderReceipt(null, "ERROR"));
+        }
+    }
+
+    @GetMapping("/{orderId}")
+    public ResponseEntity<OrderResponse> getOrder(@PathVariable String orderId) {
+        OrderResponse order = orderStore.get(UUID.fromString(orderId))
+            .orElseThrow(() -> new OrderNotFoundException(orderId));
+        order.setMessage(completedMessage(order.getOrderId(), order.getOrderDetails()));
+        return ResponseEntity.ok(order);
+    }
+
+    @GetMapping
+    public ResponseEntity<OrderPage> listOrders(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(String.format(
+                "Invalid page request: page must be >= 0 and size between 1 and %d", MAX_PAGE_SIZE));
+        }
+        List<OrderResponse> orders = orderStore.list(page, size);
+        orders.forEach(order -> order.setMessage(
+            completedMessage(order.getOrderId(), order.getOrderDetails())));
+        return ResponseEntity.ok(new OrderPage(orders, page, size, orderStore.size()));
+    }
+
     @GetMapping("/health")
     public ResponseEntity<Map<String, String>> healthCheck() {
         return ResponseEntity.ok(Map.of(
@@ -75,4 +100,29 @@ public class OrderController {
             "timestamp", LocalDateTime.now().toString()
         ));
     }
-} 
\ No newline at end of file
+
+    private OrderResponse completeOrder(OrderRequest request) {
+        // Generate a unique order ID
+        String orderId = UUID.randomUUID().toString();
+
+        // Log the order details
+        logger.info("Processing order: orderId={}, item={}, quantity={}, unitPrice={}", 
+            orderId, request.getName(), request.getQuantity(), request.getUnitPrice());
+
+        OrderResponse response = new OrderResponse(orderId, "COMPLETED", null, request);
+        orderStore.put(response);
+
+        logger.info("Order completed successfully: orderId={}, totalValue=${}", 
+            orderId, 
+            request.getQuantity() * request.getUnitPrice());
+        return response;
+    }
+
+    private String completedMessage(String orderId, OrderRequest request) {
+        return String.format("Order %s has been processed successfully. %d units of '%s' will be delivered at $%.2f per unit.", 
+            orderId, 
+            request.getQuantity(), 
+            request.getName(),
+            request.getUnitPrice());
+    }
+}
\ No newline at end of file
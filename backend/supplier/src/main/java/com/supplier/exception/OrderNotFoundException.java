@@ -0,0 +1,8 @@
+package com.supplier.exception;
+
+public class OrderNotFoundException extends RuntimeException {
+
+    public OrderNotFoundException(String orderId) {
+        super(String.format("Order %s not found", orderId));
+    }
+}
@@ -0,0 +1,17 @@
+package com.supplier.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPage {
+    private List<OrderResponse> orders;
+    private int page;
+    private int size;
+    private long totalOrders;
+}
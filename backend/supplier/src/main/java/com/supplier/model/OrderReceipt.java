@@ -0,0 +1,18 @@
+package com.supplier.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Slim order response returned to clients that negotiate the binary (CBOR) encoding.
+ * Unlike {@link OrderResponse} it does not echo the request or carry a formatted message,
+ * the full order can still be fetched from GET /api/orders/{orderId}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderReceipt {
+    private String orderId;
+    private String status;
+}
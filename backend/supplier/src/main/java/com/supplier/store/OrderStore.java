@@ -0,0 +1,289 @@
+package com.supplier.store;
+
+import com.supplier.model.OrderRequest;
+import com.supplier.model.OrderResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded in-process store of processed orders, keyed by order ID.
+ *
+ * Orders are not kept as object graphs. Each one is encoded as a variable-length
+ * record in an off-heap ring buffer, and the only per-order heap cost is an int in
+ * the slot ring and two ints in the open-addressing index (roughly 12 bytes).
+ * When either the order bound or the buffer capacity is reached, the oldest
+ * orders are evicted first.
+ *
+ * Record layout: orderId and requestId (2 longs each, the nil UUID for a null
+ * requestId), processedAt (epoch seconds and nano adjustment), unitPrice, quantity,
+ * status as a one-byte code, then name and description as length-prefixed UTF-8
+ * (length -1 for null).
+ */
+@Component
+public class OrderStore {
+    private static final Logger logger = LoggerFactory.getLogger(OrderStore.class);
+
+    private static final int FIXED_RECORD_BYTES = Long.BYTES * 6 + Integer.BYTES * 2 + 1;
+
+    // Status codes are the positions in this list, -1 for null. Only append to it.
+    private static final UUID NIL = new UUID(0, 0);
+
+    private static final List<String> STATUSES = List.of("COMPLETED", "REJECTED", "ERROR");
+
+    private final ByteBuffer data;
+    private final int maxOrders;
+
+    // Ring of record offsets, slot = sequence % maxOrders
+    private final int[] offsets;
+    private long nextSequence;
+    private int size;
+    private int writePosition;
+
+    // Linear-probing index over slots, each entry is slot + 1 and 0 marks a free entry
+    private final int[] index;
+    private final int indexMask;
+
+    public OrderStore(
+            @Value("${supplier.orders.store.max-orders:524288}") int maxOrders,
+            @Value("${supplier.orders.store.capacity-bytes:67108864}") int capacityBytes) {
+        if (maxOrders <= 0 || capacityBytes <= 0) {
+            throw new IllegalArgumentException("Order store bounds must be greater than 0");
+        }
+        this.maxOrders = maxOrders;
+        this.data = ByteBuffer.allocateDirect(capacityBytes);
+        this.offsets = new int[maxOrders];
+        this.index = new int[Integer.highestOneBit(maxOrders * 2 - 1) << 1];
+        this.indexMask = index.length - 1;
+    }
+
+    public synchronized void put(OrderResponse order) {
+        UUID orderId = UUID.fromString(order.getOrderId());
+        OrderRequest details = order.getOrderDetails();
+        UUID requestId = order.getRequestId() == null ? NIL : UUID.fromString(order.getRequestId());
+        byte status = statusCode(order.getStatus());
+        byte[] name = encode(details.getName());
+        byte[] description = encode(details.getDescription());
+
+        int length = FIXED_RECORD_BYTES + stringBytes(name) + stringBytes(description);
+        if (length > data.capacity()) {
+            throw new IllegalArgumentException(String.format(
+                "Order %s needs %d bytes and does not fit in the order store", orderId, length));
+        }
+        if (findSlot(orderId) >= 0) {
+            throw new IllegalArgumentException(String.format("Order %s is already stored", orderId));
+        }
+
+        int position = allocate(length);
+        data.putLong(position, orderId.getMostSignificantBits());
+        data.putLong(position + 8, orderId.getLeastSignificantBits());
+        data.putLong(position + 16, requestId.getMostSignificantBits());
+        data.putLong(position + 24, requestId.getLeastSignificantBits());
+        Instant processedAt = order.getProcessedAt().toInstant(ZoneOffset.UTC);
+        data.putLong(position + 32, processedAt.getEpochSecond());
+        data.putInt(position + 40, processedAt.getNano());
+        data.putDouble(position + 44, details.getUnitPrice());
+        data.putInt(position + 52, details.getQuantity());
+        data.put(position + 56, status);
+        int next = putString(position + FIXED_RECORD_BYTES, name);
+        putString(next, description);
+
+        int slot = (int) (nextSequence++ % maxOrders);
+        offsets[slot] = position;
+        size++;
+        insertIndex(slot, orderId);
+    }
+
+    public synchronized Optional<OrderResponse> get(UUID orderId) {
+        int slot = findSlot(orderId);
+        return slot < 0 ? Optional.empty() : Optional.of(decode(offsets[slot]));
+    }
+
+    /**
+     * Returns one page of orders, newest first.
+     */
+    public synchronized List<OrderResponse> list(int page, int pageSize) {
+        List<OrderResponse> orders = new ArrayList<>();
+        long first = (long) page * pageSize;
+        for (long i = first; i < size && i < first + pageSize; i++) {
+            int slot = (int) ((nextSequence - 1 - i) % maxOrders);
+            orders.add(decode(offsets[slot]));
+        }
+        return orders;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private int allocate(int length) {
+        if (size == maxOrders) {
+            evictOldest();
+        }
+        while (true) {
+            if (size == 0) {
+                writePosition = 0;
+                break;
+            }
+            int tail = offsets[oldestSlot()];
+            if (writePosition > tail) {
+                if (data.capacity() - writePosition >= length) {
+                    break;
+                }
+                if (tail >= length) {
+                    writePosition = 0;
+                    break;
+                }
+            } else if (tail - writePosition >= length) {
+                break;
+            }
+            evictOldest();
+        }
+        int position = writePosition;
+        writePosition += length;
+        return position;
+    }
+
+    private void evictOldest() {
+        int slot = oldestSlot();
+        removeIndex(slot);
+        size--;
+        if (logger.isTraceEnabled()) {
+            logger.trace("Evicted order {} from the order store", orderIdAt(offsets[slot]));
+        }
+    }
+
+    private int oldestSlot() {
+        return (int) ((nextSequence - size) % maxOrders);
+    }
+
+    private int findSlot(UUID orderId) {
+        long mostSignificant = orderId.getMostSignificantBits();
+        long leastSignificant = orderId.getLeastSignificantBits();
+        for (int i = home(mostSignificant, leastSignificant); index[i] != 0; i = (i + 1) & indexMask) {
+            int slot = index[i] - 1;
+            int position = offsets[slot];
+            if (data.getLong(position) == mostSignificant && data.getLong(position + 8) == leastSignificant) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void insertIndex(int slot, UUID orderId) {
+        int i = home(orderId.getMostSignificantBits(), orderId.getLeastSignificantBits());
+        while (index[i] != 0) {
+            i = (i + 1) & indexMask;
+        }
+        index[i] = slot + 1;
+    }
+
+    private void removeIndex(int slot) {
+        int i = homeOf(slot);
+        while (index[i] != slot + 1) {
+            i = (i + 1) & indexMask;
+        }
+        index[i] = 0;
+        // Backward-shift the rest of the probe run so lookups never stop early
+        for (int j = (i + 1) & indexMask; index[j] != 0; j = (j + 1) & indexMask) {
+            int k = homeOf(index[j] - 1);
+            boolean movable = i <= j ? (k <= i || k > j) : (k <= i && k > j);
+            if (movable) {
+                index[i] = index[j];
+                index[j] = 0;
+                i = j;
+            }
+        }
+    }
+
+    private int homeOf(int slot) {
+        int position = offsets[slot];
+        return home(data.getLong(position), data.getLong(position + 8));
+    }
+
+    private int home(long mostSignificant, long leastSignificant) {
+        long hash = (mostSignificant ^ leastSignificant) * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & indexMask;
+    }
+
+    private UUID orderIdAt(int position) {
+        return new UUID(data.getLong(position), data.getLong(position + 8));
+    }
+
+    private OrderResponse decode(int position) {
+        OrderRequest details = new OrderRequest();
+        details.setUnitPrice(data.getDouble(position + 44));
+        details.setQuantity(data.getInt(position + 52));
+
+        int next = position + FIXED_RECORD_BYTES;
+        details.setName(getString(next));
+        next += stringBytes(data.getInt(next));
+        details.setDescription(getString(next));
+
+        UUID requestId = new UUID(data.getLong(position + 16), data.getLong(position + 24));
+        byte status = data.get(position + 56);
+        LocalDateTime processedAt = LocalDateTime.ofEpochSecond(
+            data.getLong(position + 32), data.getInt(position + 40), ZoneOffset.UTC);
+        return new OrderResponse(
+            orderIdAt(position).toString(),
+            status < 0 ? null : STATUSES.get(status),
+            null,
+            details,
+            processedAt,
+            requestId.equals(NIL) ? null : requestId.toString());
+    }
+
+    private static byte statusCode(String status) {
+        if (status == null) {
+            return -1;
+        }
+        int code = STATUSES.indexOf(status);
+        if (code < 0) {
+            throw new IllegalArgumentException("Order status " + status + " cannot be stored");
+        }
+        return (byte) code;
+    }
+
+    private static byte[] encode(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int stringBytes(byte[] value) {
+        return Integer.BYTES + (value == null ? 0 : value.length);
+    }
+
+    private static int stringBytes(int encodedLength) {
+        return Integer.BYTES + Math.max(encodedLength, 0);
+    }
+
+    private int putString(int position, byte[] value) {
+        if (value == null) {
+            data.putInt(position, -1);
+            return position + Integer.BYTES;
+        }
+        data.putInt(position, value.length);
+        data.put(position + Integer.BYTES, value);
+        return position + Integer.BYTES + value.length;
+    }
+
+    private String getString(int position) {
+        int length = data.getInt(position);
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        data.get(position + Integer.BYTES, value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,175 @@
+package com.supplier.store;
+
+import com.supplier.model.OrderRequest;
+import com.supplier.model.OrderResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderStoreTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    void roundTripsAllFields() {
+        OrderStore store = new OrderStore(16, 4096);
+        OrderResponse order = order("Widget");
+        order.getOrderDetails().setDescription("Blue, 10 cm");
+        order.setProcessedAt(LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_789));
+
+        store.put(order);
+
+        OrderResponse stored = store.get(UUID.fromString(order.getOrderId())).orElseThrow();
+        assertEquals(order.getOrderId(), stored.getOrderId());
+        assertEquals(order.getStatus(), stored.getStatus());
+        assertEquals(order.getOrderDetails(), stored.getOrderDetails());
+        assertEquals(order.getProcessedAt(), stored.getProcessedAt());
+        assertEquals(order.getRequestId(), stored.getRequestId());
+        assertNull(stored.getMessage());
+    }
+
+    @Test
+    void keepsRequestIdStableAcrossReads() {
+        OrderStore store = new OrderStore(16, 4096);
+        OrderResponse order = order("Widget");
+        store.put(order);
+
+        UUID orderId = UUID.fromString(order.getOrderId());
+        assertEquals(store.get(orderId).orElseThrow().getRequestId(), store.get(orderId).orElseThrow().getRequestId());
+        assertEquals(order.getRequestId(), store.list(0, 10).get(0).getRequestId());
+    }
+
+    @Test
+    void keepsNullRequestIdAndStatus() {
+        OrderStore store = new OrderStore(16, 4096);
+        OrderResponse order = order("Widget");
+        order.setRequestId(null);
+        order.setStatus(null);
+        store.put(order);
+
+        OrderResponse stored = store.get(UUID.fromString(order.getOrderId())).orElseThrow();
+        assertNull(stored.getRequestId());
+        assertNull(stored.getStatus());
+    }
+
+    @Test
+    void rejectsUnknownStatus() {
+        OrderStore store = new OrderStore(16, 4096);
+        OrderResponse order = order("Widget");
+        order.setStatus("SHIPPED");
+
+        assertThrows(IllegalArgumentException.class, () -> store.put(order));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void rejectsDuplicateOrderId() {
+        OrderStore store = new OrderStore(16, 4096);
+        OrderResponse order = order("Widget");
+        store.put(order);
+
+        assertThrows(IllegalArgumentException.class, () -> store.put(order));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void evictsOldestWhenOrderBoundIsReached() {
+        OrderStore store = new OrderStore(4, 1 << 20);
+        List<OrderResponse> orders = putOrders(store, 10);
+
+        assertEquals(4, store.size());
+        for (int i = 0; i < 6; i++) {
+            assertTrue(store.get(UUID.fromString(orders.get(i).getOrderId())).isEmpty());
+        }
+        assertRetained(store, orders.subList(6, 10));
+    }
+
+    @Test
+    void evictsOldestWhenCapacityIsReached() {
+        OrderStore store = new OrderStore(1000, 1024);
+        List<OrderResponse> orders = putOrders(store, 100);
+
+        int retained = store.size();
+        assertTrue(retained > 0 && retained < 100);
+        for (int i = 0; i < orders.size() - retained; i++) {
+            assertTrue(store.get(UUID.fromString(orders.get(i).getOrderId())).isEmpty());
+        }
+        assertRetained(store, orders.subList(orders.size() - retained, orders.size()));
+    }
+
+    @Test
+    void wrapsAroundBufferAndSlotRing() {
+        OrderStore store = new OrderStore(7, 1000);
+        List<OrderResponse> orders = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            // Varying record lengths so the write position lands at different offsets
+            OrderResponse order = order("item-" + "x".repeat(i % 23));
+            store.put(order);
+            orders.add(order);
+
+            int retained = store.size();
+            assertRetained(store, orders.subList(orders.size() - retained, orders.size()));
+        }
+    }
+
+    @Test
+    void findsRemainingOrdersAfterIndexDeletions() {
+        // Small index with many evictions exercises the backward shift on every probe run shape
+        OrderStore store = new OrderStore(8, 1 << 20);
+        List<OrderResponse> orders = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            OrderResponse order = order("item-" + i);
+            store.put(order);
+            orders.add(order);
+
+            int retained = store.size();
+            for (int j = 0; j < orders.size() - retained && j < 8; j++) {
+                OrderResponse evicted = orders.get(orders.size() - retained - 1 - j);
+                assertTrue(store.get(UUID.fromString(evicted.getOrderId())).isEmpty());
+            }
+            for (OrderResponse kept : orders.subList(orders.size() - retained, orders.size())) {
+                assertTrue(store.get(UUID.fromString(kept.getOrderId())).isPresent());
+            }
+        }
+    }
+
+    private List<OrderResponse> putOrders(OrderStore store, int count) {
+        List<OrderResponse> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            OrderResponse order = order("item-" + i);
+            store.put(order);
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    private static void assertRetained(OrderStore store, List<OrderResponse> expected) {
+        assertEquals(expected.size(), store.size());
+        for (OrderResponse order : expected) {
+            assertEquals(order.getOrderDetails().getName(),
+                store.get(UUID.fromString(order.getOrderId())).orElseThrow().getOrderDetails().getName());
+        }
+        List<OrderResponse> newestFirst = store.list(0, expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(expected.size() - 1 - i).getOrderId(), newestFirst.get(i).getOrderId());
+        }
+    }
+
+    private OrderResponse order(String name) {
+        OrderRequest details = new OrderRequest();
+        details.setName(name);
+        details.setQuantity(3);
+        details.setUnitPrice(9.99);
+        UUID orderId = new UUID(random.nextLong(), random.nextLong());
+        return new OrderResponse(orderId.toString(), "COMPLETED", "Order processed", details);
+    }
+}